@@ -0,0 +1,36 @@
+package kh.sudokusolver;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JDK Flight Recorder event covering one pass through the grid removing
+ * single values from the guesses in each cell.
+ * 
+ * @author kevinhooke
+ *
+ */
+@Name("kh.sudokusolver.PropagationPass")
+@Label("Sudoku Propagation Pass")
+@Category("Sudoku Solver")
+@Description("One pass through the grid removing single values from current guesses")
+class PropagationPassEvent extends Event {
+
+    @Label("Puzzle Id")
+    String puzzleId;
+
+    @Label("Clue Count")
+    @Description("Number of populated cells in the starting grid")
+    int clueCount;
+
+    @Label("Pass Number")
+    int passNumber;
+
+    @Label("Cells Updated")
+    @Description("Number of cells that had guesses removed on this pass")
+    int cellsUpdated;
+
+}
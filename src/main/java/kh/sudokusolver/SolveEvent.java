@@ -0,0 +1,44 @@
+package kh.sudokusolver;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JDK Flight Recorder event covering a single call to
+ * {@link SudokuSolverApp#solve()}, from the start of the solve to the point
+ * where no further values can be removed from the grid.
+ * 
+ * When no recording is running the event is disabled and begin/commit are
+ * effectively no-ops, so this can be left in place for production solves.
+ * 
+ * @author kevinhooke
+ *
+ */
+@Name("kh.sudokusolver.Solve")
+@Label("Sudoku Solve")
+@Category("Sudoku Solver")
+@Description("A complete solve of a starting grid")
+class SolveEvent extends Event {
+
+    @Label("Puzzle Id")
+    String puzzleId;
+
+    @Label("Clue Count")
+    @Description("Number of populated cells in the starting grid")
+    int clueCount;
+
+    @Label("Passes Through Grid")
+    int passesThroughGrid;
+
+    @Label("Cells Updated")
+    @Description("Total number of cells that had guesses removed across all passes")
+    int cellsUpdated;
+
+    @Label("Unsolved Cells")
+    @Description("Number of cells still holding more than one guess when the solve finished")
+    int unsolvedCells;
+
+}
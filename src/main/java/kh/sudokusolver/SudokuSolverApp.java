@@ -70,6 +70,9 @@ public class SudokuSolverApp {
     // ... }
     private List<List<List<Integer>>> solutionGrid = new ArrayList<>();
 
+    // identifies this puzzle on JFR events; defaults to a hash of the starting grid
+    private String puzzleId;
+
     /**
      * Default constructor.
      */
@@ -180,7 +183,16 @@ public class SudokuSolverApp {
      */
     void solve() {
 
+        SolveEvent solveEvent = new SolveEvent();
+        solveEvent.begin();
+
         int passesThroughGridCount = 0;
+        int cellsUpdatedCount = 0;
+
+        // fixed for the whole solve, so only looked up the first time an event
+        // is recorded
+        String eventPuzzleId = null;
+        int eventClueCount = 0;
 
         // pass 1 - loop through squares and populate blank cells with lists of
         // possible values
@@ -203,12 +215,17 @@ public class SudokuSolverApp {
         // pass 2 - loop through individual cells and remove any invalid values
         boolean solvedValuesOnAtLeastOnePass = true;
         while (solvedValuesOnAtLeastOnePass) {
+            PropagationPassEvent passEvent = new PropagationPassEvent();
+            passEvent.begin();
+            int cellsUpdatedThisPass = 0;
+
             boolean replacedOnLastIteration = false;
             for (int col = 0; col < 9; col++) {
                 for (int row = 0; row < 9; row++) {
                     boolean solvedValuesThisPass = this.removeSingleValuesFromCurrentGuesses(row, col);
                     if (solvedValuesThisPass) {
                         replacedOnLastIteration = solvedValuesThisPass;
+                        cellsUpdatedThisPass++;
                     }
                 }
                 if (!replacedOnLastIteration) {
@@ -216,10 +233,75 @@ public class SudokuSolverApp {
                 }
             }
             passesThroughGridCount++;
+            cellsUpdatedCount += cellsUpdatedThisPass;
+
+            passEvent.end();
+            if (passEvent.shouldCommit()) {
+                if (eventPuzzleId == null) {
+                    eventPuzzleId = this.getPuzzleId();
+                    eventClueCount = this.getClueCount();
+                }
+                passEvent.puzzleId = eventPuzzleId;
+                passEvent.clueCount = eventClueCount;
+                passEvent.passNumber = passesThroughGridCount;
+                passEvent.cellsUpdated = cellsUpdatedThisPass;
+                passEvent.commit();
+            }
+
             this.printSolutionGrid();
             System.out.println("Passes through grid: " + passesThroughGridCount);
         }
 
+        solveEvent.end();
+        if (solveEvent.shouldCommit()) {
+            if (eventPuzzleId == null) {
+                eventPuzzleId = this.getPuzzleId();
+                eventClueCount = this.getClueCount();
+            }
+            solveEvent.puzzleId = eventPuzzleId;
+            solveEvent.clueCount = eventClueCount;
+            solveEvent.passesThroughGrid = passesThroughGridCount;
+            solveEvent.cellsUpdated = cellsUpdatedCount;
+            solveEvent.unsolvedCells = this.getUnsolvedCellCount();
+            solveEvent.commit();
+        }
+    }
+
+    
+    /**
+     * Counts the populated cells in the starting grid.
+     * 
+     * @return number of clues given in the starting grid
+     */
+    int getClueCount() {
+        int clues = 0;
+        for (int row = 0; row < 9; row++) {
+            for (int col = 0; col < 9; col++) {
+                if (startingSudokuGrid[row][col] > 0) {
+                    clues++;
+                }
+            }
+        }
+        return clues;
+    }
+
+    
+    /**
+     * Counts the cells in the solution grid that do not yet have a single
+     * (final) value.
+     * 
+     * @return number of unsolved cells
+     */
+    int getUnsolvedCellCount() {
+        int unsolved = 0;
+        for (List<List<Integer>> row : this.solutionGrid) {
+            for (List<Integer> currentCell : row) {
+                if (currentCell.size() != 1) {
+                    unsolved++;
+                }
+            }
+        }
+        return unsolved;
     }
 
     
@@ -449,6 +531,17 @@ public class SudokuSolverApp {
         this.startingSudokuGrid = sudokuGrid;
     }
 
+    public String getPuzzleId() {
+        if (puzzleId == null) {
+            return Integer.toHexString(Arrays.deepHashCode(startingSudokuGrid));
+        }
+        return puzzleId;
+    }
+
+    public void setPuzzleId(String puzzleId) {
+        this.puzzleId = puzzleId;
+    }
+
     boolean isValueInCellValid(int row, int col) {
         // TODO not used
         return true;
@@ -1,13 +1,23 @@
 package kh.sudokusolver;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.Test;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
 public class SudokuSolverAppTest {
 
 	private SudokuSolverApp app = new SudokuSolverApp();
@@ -203,5 +213,86 @@ public class SudokuSolverAppTest {
 
 	}
 
-	
+	@Test
+	public void testGetClueCount(){
+		int result = this.app.getClueCount();
+		assertTrue(result == 35);
+	}
+
+	@Test
+	public void testGetUnsolvedCellCount_startingPosition(){
+		this.app.populateSolutionGridWithStartingPosition();
+		int result = this.app.getUnsolvedCellCount();
+		assertTrue(result == 46);
+	}
+
+	@Test
+	public void testGetPuzzleId_sameForEqualGrids(){
+		SudokuSolverApp other = new SudokuSolverApp();
+		int[][] copy = new int[9][];
+		for (int row = 0; row < 9; row++) {
+			copy[row] = this.sudokuGrid[row].clone();
+		}
+		other.setSudokuGrid(copy);
+		assertEquals(this.app.getPuzzleId(), other.getPuzzleId());
+	}
+
+	@Test
+	public void testGetPuzzleId_differsForDifferentGrids(){
+		SudokuSolverApp other = new SudokuSolverApp();
+		int[][] copy = new int[9][];
+		for (int row = 0; row < 9; row++) {
+			copy[row] = this.sudokuGrid[row].clone();
+		}
+		copy[0][0] = 5;
+		other.setSudokuGrid(copy);
+		assertNotEquals(this.app.getPuzzleId(), other.getPuzzleId());
+	}
+
+	@Test
+	public void testSetPuzzleId_overridesDefault(){
+		this.app.setPuzzleId("puzzle-1");
+		assertEquals("puzzle-1", this.app.getPuzzleId());
+	}
+
+	@Test
+	public void testSolve_emitsJfrEvents() throws Exception {
+		Path dump = Files.createTempFile("sudokusolver", ".jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable("kh.sudokusolver.Solve");
+			recording.enable("kh.sudokusolver.PropagationPass");
+			recording.start();
+			this.app.populateSolutionGridWithStartingPosition();
+			this.app.solve();
+			recording.stop();
+			recording.dump(dump);
+		}
+
+		List<RecordedEvent> solveEvents = new ArrayList<>();
+		List<RecordedEvent> passEvents = new ArrayList<>();
+		for (RecordedEvent event : RecordingFile.readAllEvents(dump)) {
+			String name = event.getEventType().getName();
+			if (name.equals("kh.sudokusolver.Solve")) {
+				solveEvents.add(event);
+			} else if (name.equals("kh.sudokusolver.PropagationPass")) {
+				passEvents.add(event);
+			}
+		}
+		Files.delete(dump);
+
+		assertEquals(1, solveEvents.size());
+		RecordedEvent solveEvent = solveEvents.get(0);
+		assertEquals(35, solveEvent.getInt("clueCount"));
+		assertEquals(passEvents.size(), solveEvent.getInt("passesThroughGrid"));
+
+		String puzzleId = this.app.getPuzzleId();
+		assertEquals(puzzleId, solveEvent.getString("puzzleId"));
+		int cellsUpdated = 0;
+		for (RecordedEvent passEvent : passEvents) {
+			assertEquals(puzzleId, passEvent.getString("puzzleId"));
+			cellsUpdated += passEvent.getInt("cellsUpdated");
+		}
+		assertEquals(solveEvent.getInt("cellsUpdated"), cellsUpdated);
+	}
+
 }